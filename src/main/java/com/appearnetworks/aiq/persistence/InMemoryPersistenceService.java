@@ -15,8 +15,9 @@ import org.springframework.util.FileCopyUtils;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
+import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -33,11 +34,34 @@ public class InMemoryPersistenceService implements PersistenceService {
 
     @Override
     public Collection<DocumentReference> list() {
-        ArrayList<DocumentReference> documentReferences = new ArrayList<>(documents.size());
-        for (StoredDocument document : documents.values()) {
-            documentReferences.add(new DocumentReference(document._id, document._type, document.get_rev()));
-        }
-        return documentReferences;
+        return new AbstractCollection<DocumentReference>() {
+            @Override
+            public Iterator<DocumentReference> iterator() {
+                final Iterator<StoredDocument> iterator = documents.values().iterator();
+                return new Iterator<DocumentReference>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public DocumentReference next() {
+                        StoredDocument document = iterator.next();
+                        return new DocumentReference(document._id, document._type, document.get_rev());
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return documents.size();
+            }
+        };
     }
 
     @Override
@@ -16,6 +16,7 @@ import org.springframework.util.FileCopyUtils;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 
 import static net.javacrumbs.jsonunit.JsonAssert.assertJsonEquals;
 import static org.junit.Assert.*;
@@ -101,6 +102,15 @@ public class InMemoryPersistenceServiceTest {
         assertJsonEquals(document, persistenceService.retrieve(DOC_ID));
     }
 
+    @Test
+    public void listSerialization() throws UpdateException {
+        long revision = persistenceService.insert(new DocumentReference(DOC_ID, DOC_TYPE, 0), document);
+
+        assertJsonEquals(
+                mapper.valueToTree(Collections.singletonList(new DocumentReference(DOC_ID, DOC_TYPE, revision))),
+                mapper.valueToTree(persistenceService.list()));
+    }
+
     @Test
     public void updateConflict() throws UpdateException {
         long revision = persistenceService.insert(new DocumentReference(DOC_ID, DOC_TYPE, 0), document);